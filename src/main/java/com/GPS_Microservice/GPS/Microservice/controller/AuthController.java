@@ -0,0 +1,69 @@
+package com.GPS_Microservice.GPS.Microservice.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.GPS_Microservice.GPS.Microservice.dto.DeviceTokenRequestDTO;
+import com.GPS_Microservice.GPS.Microservice.service.DeviceCredentialService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirements;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    @Autowired
+    private DeviceCredentialService deviceCredentialService;
+
+    @Operation(summary = "Issue device token", description = "Use this endpoint to exchange a device ID and secret for a signed JWT. "
+            +
+            "Send the token as `Authorization: Bearer <token>` on subsequent requests until it expires.\n\n" +
+            "**Example request:**\n" +
+            "`POST /api/auth/token`\n\n" +
+            "**Request body example:**\n" +
+            "```json\n" +
+            "{\n" +
+            "  \"deviceId\": \"GPS-DEVICE-001\",\n" +
+            "  \"secret\": \"device-secret\"\n" +
+            "}\n" +
+            "```\n\n")
+    @SecurityRequirements
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Token issued", content = @Content(mediaType = "application/json", schema = @Schema(example = "{\n"
+                    +
+                    "  \"message\": \"Token issued\",\n" +
+                    "  \"data\": {\n" +
+                    "    \"token\": \"eyJhbGciOiJIUzI1NiJ9...\",\n" +
+                    "    \"tokenType\": \"Bearer\",\n" +
+                    "    \"expiresIn\": 3600\n" +
+                    "  }\n" +
+                    "}"))),
+            @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(mediaType = "application/json", schema = @Schema(example = "{ \"message\": \"Validation failed\", \"errors\": { \"deviceId\": \"must not be blank\" } }"))),
+            @ApiResponse(responseCode = "401", description = "Invalid device credentials", content = @Content(mediaType = "application/json", schema = @Schema(example = "{ \"message\": \"Invalid device credentials\" }")))
+    })
+    @PostMapping("/token")
+    public ResponseEntity<Map<String, Object>> issueToken(@Valid @RequestBody DeviceTokenRequestDTO request) {
+        String token = deviceCredentialService.issueToken(request.getDeviceId(), request.getSecret());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("token", token);
+        data.put("tokenType", "Bearer");
+        data.put("expiresIn", deviceCredentialService.getTokenExpirationSeconds());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Token issued");
+        response.put("data", data);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -10,12 +10,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.GPS_Microservice.GPS.Microservice.dto.GPSLogRequestDTO;
 import com.GPS_Microservice.GPS.Microservice.model.GPSLog;
 import com.GPS_Microservice.GPS.Microservice.model.Vehicle;
+import com.GPS_Microservice.GPS.Microservice.security.DeviceAuthentication;
 import com.GPS_Microservice.GPS.Microservice.service.GPSLogService;
 import com.GPS_Microservice.GPS.Microservice.service.VehicleService;
 
@@ -64,11 +66,18 @@ public class GPSController {
                     "  }\n" +
                     "}"))),
             @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(mediaType = "application/json", schema = @Schema(example = "{ \"message\": \"Validation failed\", \"errors\": { \"latitude\": \"must be greater than or equal to -90.0\" } }"))),
+            @ApiResponse(responseCode = "403", description = "Vehicle does not match device", content = @Content(mediaType = "application/json", schema = @Schema(example = "{ \"message\": \"Vehicle does not match device\" }"))),
             @ApiResponse(responseCode = "404", description = "Vehicle not found", content = @Content(mediaType = "application/json", schema = @Schema(example = "{ \"message\": \"Vehicle not found\" }"))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(example = "{ \"message\": \"Unexpected error\" }")))
     })
     @PostMapping("/gps")
     public ResponseEntity<Map<String, Object>> saveGPSLog(@Valid @RequestBody GPSLogRequestDTO request) {
+        // Perangkat GPS hanya boleh mengirim log untuk kendaraan yang terikat di tokennya
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof DeviceAuthentication device
+                && !request.getVehicleReference().equals(device.getVehicleReference())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Vehicle does not match device");
+        }
+
         Vehicle vehicle = vehicleService.getVehicleById(request.getVehicleReference())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vehicle not found"));
 
@@ -0,0 +1,17 @@
+package com.GPS_Microservice.GPS.Microservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+public class DeviceTokenRequestDTO {
+
+    @NotBlank
+    @Schema(example = "GPS-DEVICE-001", description = "ID perangkat GPS yang terdaftar")
+    private String deviceId;
+
+    @NotBlank
+    @Schema(example = "device-secret", description = "Secret milik perangkat GPS")
+    private String secret;
+}
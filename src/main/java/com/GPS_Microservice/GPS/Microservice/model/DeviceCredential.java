@@ -0,0 +1,35 @@
+package com.GPS_Microservice.GPS.Microservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "device_credentials")
+@Data
+public class DeviceCredential {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String deviceId;
+
+    // Disimpan dalam format PasswordEncoder delegating, misal "{bcrypt}$2a$10$..."
+    @Column(nullable = false)
+    private String secretHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "vehicle_reference", nullable = false)
+    private Vehicle vehicle;
+
+    private boolean enabled = true;
+}
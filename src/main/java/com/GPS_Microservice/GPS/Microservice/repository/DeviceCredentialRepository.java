@@ -0,0 +1,15 @@
+package com.GPS_Microservice.GPS.Microservice.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.GPS_Microservice.GPS.Microservice.model.DeviceCredential;
+
+
+@Repository
+public interface DeviceCredentialRepository extends JpaRepository<DeviceCredential, Long> {
+    // Ambil kredensial perangkat bedasarkan device id
+    Optional<DeviceCredential> findByDeviceId(String deviceId);
+}
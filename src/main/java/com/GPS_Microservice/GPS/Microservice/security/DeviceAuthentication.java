@@ -0,0 +1,35 @@
+package com.GPS_Microservice.GPS.Microservice.security;
+
+import java.util.List;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+// Authentication untuk perangkat GPS yang login memakai JWT, dibuat baru di setiap request
+public class DeviceAuthentication extends AbstractAuthenticationToken {
+    public static final String DEVICE_ROLE = "ROLE_DEVICE";
+
+    private final String deviceId;
+    private final Long vehicleReference;
+
+    public DeviceAuthentication(String deviceId, Long vehicleReference) {
+        super(List.of(new SimpleGrantedAuthority(DEVICE_ROLE)));
+        this.deviceId = deviceId;
+        this.vehicleReference = vehicleReference;
+        setAuthenticated(true);
+    }
+
+    public Long getVehicleReference() {
+        return vehicleReference;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return deviceId;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+}
@@ -0,0 +1,103 @@
+package com.GPS_Microservice.GPS.Microservice.security;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+@Service
+public class JwtService {
+    static final String VEHICLE_REFERENCE_CLAIM = "vehicleReference";
+
+    // Key dan parser dibuat sekali saja, bukan per request
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long expirationMillis;
+
+    // Cache claims token yang sudah diverifikasi, supaya signature tidak dicek ulang di setiap request.
+    // Caffeine: concurrent, dibatasi cacheSize, dan tiap entri kedaluwarsa tepat di exp token.
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final int cacheSize;
+
+    public JwtService(
+            @Value("${gps.jwt.secret}") String secret,
+            @Value("${gps.jwt.expiration-minutes}") long expirationMinutes,
+            @Value("${gps.jwt.cache-size}") int cacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.expirationMillis = expirationMinutes * 60_000L;
+        this.cacheSize = cacheSize;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(Math.max(cacheSize, 0))
+                .expireAfter(Expiry.creating((String token, VerifiedToken verified) ->
+                        Duration.ofMillis(verified.expiresAt() - System.currentTimeMillis())))
+                .build();
+    }
+
+    public String issueToken(String deviceId, Long vehicleReference) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(deviceId)
+                .claim(VEHICLE_REFERENCE_CLAIM, vehicleReference)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expirationMillis))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public long getExpirationSeconds() {
+        return expirationMillis / 1000;
+    }
+
+    public Optional<DeviceAuthentication> authenticate(String token) {
+        // Entri yang sudah lewat exp otomatis dibuang oleh cache
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return Optional.of(cached.toAuthentication());
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                claims.get(VEHICLE_REFERENCE_CLAIM, Long.class),
+                claims.getExpiration().getTime());
+        if (cacheSize > 0) {
+            verifiedTokens.put(token, verified);
+        }
+        return Optional.of(verified.toAuthentication());
+    }
+
+    // Jumlah token di cache setelah eviction yang tertunda dijalankan
+    public long getCachedTokenCount() {
+        verifiedTokens.cleanUp();
+        return verifiedTokens.estimatedSize();
+    }
+
+    private record VerifiedToken(String deviceId, Long vehicleReference, long expiresAt) {
+        DeviceAuthentication toAuthentication() {
+            return new DeviceAuthentication(deviceId, vehicleReference);
+        }
+    }
+}
@@ -2,21 +2,32 @@ package com.GPS_Microservice.GPS.Microservice.security;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 public class SecurityConfig {
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtService jwtService) throws Exception {
         return http
             .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                .anyRequest().authenticated()
+                // Error dispatch tidak dibatasi role, supaya status asli (400/500) sampai ke perangkat
+                .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/api/auth/**").permitAll()
+                // Token perangkat hanya boleh dipakai untuk mengirim log GPS
+                .requestMatchers(HttpMethod.POST, "/api/gps").hasAnyRole("DEVICE", "ADMIN")
+                .anyRequest().hasRole("ADMIN")
             )
             .httpBasic(Customizer.withDefaults())
+            .addFilterBefore(new JwtAuthenticationFilter(jwtService), BasicAuthenticationFilter.class)
             .build();
     }
 }
@@ -0,0 +1,46 @@
+package com.GPS_Microservice.GPS.Microservice.service;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.GPS_Microservice.GPS.Microservice.model.DeviceCredential;
+import com.GPS_Microservice.GPS.Microservice.repository.DeviceCredentialRepository;
+import com.GPS_Microservice.GPS.Microservice.security.JwtService;
+
+@Service
+public class DeviceCredentialService {
+    // Tidak dijadikan bean, supaya password user default Spring Security tetap memakai {noop}
+    private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+
+    @Autowired
+    private DeviceCredentialRepository deviceCredentialRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    // Hash pembanding untuk device yang tidak terdaftar, supaya waktu respon tidak membocorkan device id
+    private final String dummySecretHash = passwordEncoder.encode("dummy-device-secret");
+
+    // Verifikasi hash secret hanya dilakukan di sini, sekali per token
+    public String issueToken(String deviceId, String secret) {
+        Optional<DeviceCredential> credential = deviceCredentialRepository.findByDeviceId(deviceId);
+        String secretHash = credential.map(DeviceCredential::getSecretHash).orElse(dummySecretHash);
+
+        boolean secretMatches = passwordEncoder.matches(secret, secretHash);
+        if (credential.isEmpty() || !secretMatches || !credential.get().isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid device credentials");
+        }
+
+        return jwtService.issueToken(credential.get().getDeviceId(), credential.get().getVehicle().getId());
+    }
+
+    public long getTokenExpirationSeconds() {
+        return jwtService.getExpirationSeconds();
+    }
+}
@@ -5,17 +5,29 @@ import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
+import io.swagger.v3.oas.annotations.security.SecuritySchemes;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @OpenAPIDefinition(
     info = @Info(title = "GPS Microservice API", version = "1.0"),
-    security = @SecurityRequirement(name = "basicAuth")
-)
-@SecurityScheme(
-    name = "basicAuth",
-    type = SecuritySchemeType.HTTP,
-    scheme = "basic"
+    security = {
+        @SecurityRequirement(name = "basicAuth"),
+        @SecurityRequirement(name = "bearerAuth")
+    }
 )
+@SecuritySchemes({
+    @SecurityScheme(
+        name = "basicAuth",
+        type = SecuritySchemeType.HTTP,
+        scheme = "basic"
+    ),
+    @SecurityScheme(
+        name = "bearerAuth",
+        type = SecuritySchemeType.HTTP,
+        scheme = "bearer",
+        bearerFormat = "JWT"
+    )
+})
 public class SwaggerConfig {
 }
@@ -0,0 +1,10 @@
+-- V2__Device_Credentials.sql
+
+CREATE TABLE device_credentials (
+    id SERIAL PRIMARY KEY,
+    device_id VARCHAR(255) NOT NULL UNIQUE,
+    secret_hash VARCHAR(255) NOT NULL,
+    vehicle_reference BIGINT NOT NULL,
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT fk_device_vehicle FOREIGN KEY (vehicle_reference) REFERENCES vehicles(id)
+);
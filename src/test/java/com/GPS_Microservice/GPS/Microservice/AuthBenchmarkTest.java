@@ -0,0 +1,90 @@
+package com.GPS_Microservice.GPS.Microservice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.GPS_Microservice.GPS.Microservice.security.JwtService;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+// Benchmark biaya autentikasi per request. Tidak ikut `mvn test`, jalankan dengan `mvn test -Pbenchmark`.
+@Tag("benchmark")
+public class AuthBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthBenchmarkTest.class);
+
+    private static final String SECRET = "ZqDxLtc4+o4S3TQG8nXh2rw4HkRUqkvtvy9zG8Jd8dM=";
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    @Test
+    void benchmarkAuthCostPerRequest() throws Exception {
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+
+        // Baseline sebenarnya: user default Spring Boot lewat HTTP Basic, password disimpan sebagai {noop}
+        DaoAuthenticationProvider noopBasicProvider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+                User.withUsername("admin").password("{noop}admin123").roles("ADMIN").build()));
+        noopBasicProvider.setPasswordEncoder(passwordEncoder);
+
+        // Alternatif: kredensial per perangkat lewat HTTP Basic, hash bcrypt dicek di setiap request
+        DaoAuthenticationProvider bcryptBasicProvider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+                User.withUsername("GPS-DEVICE-001").password(passwordEncoder.encode("device-secret")).roles("DEVICE").build()));
+        bcryptBasicProvider.setPasswordEncoder(passwordEncoder);
+
+        JwtService uncachedService = new JwtService(SECRET, 60, 0);
+        JwtService cachedService = new JwtService(SECRET, 60, 10_000);
+        String token = cachedService.issueToken("GPS-DEVICE-001", 1L);
+
+        report("basic, {noop} user (baseline)", 200_000, () -> noopBasicProvider.authenticate(
+                new UsernamePasswordAuthenticationToken("admin", "admin123")));
+        report("basic, bcrypt device secret", 20, () -> bcryptBasicProvider.authenticate(
+                new UsernamePasswordAuthenticationToken("GPS-DEVICE-001", "device-secret")));
+        report("jwt, signature verified", 50_000, () -> uncachedService.authenticate(token).orElseThrow());
+        report("jwt, cached", 200_000, () -> cachedService.authenticate(token).orElseThrow());
+    }
+
+    private void report(String name, int iterations, Runnable action) throws Exception {
+        long singleThreadNanos = measure(1, iterations, action);
+        long multiThreadNanos = measure(THREADS, iterations, action);
+        log.info("{}: {} ns/op (1 thread), {} ns/op ({} threads)", name, singleThreadNanos, multiThreadNanos, THREADS);
+    }
+
+    // Rata-rata waktu wall-clock per operasi saat `threads` thread menjalankan `iterations` operasi masing-masing
+    private long measure(int threads, int iterations, Runnable action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // Warm-up sepanjang pengukuran, supaya JIT sudah selesai sebelum waktu diukur
+            runOnAll(executor, threads, iterations, action);
+            long start = System.nanoTime();
+            runOnAll(executor, threads, iterations, action);
+            return (System.nanoTime() - start) / ((long) threads * iterations);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void runOnAll(ExecutorService executor, int threads, int iterations, Runnable action) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    action.run();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.GPS_Microservice.GPS.Microservice;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+
+import com.GPS_Microservice.GPS.Microservice.model.DeviceCredential;
+import com.GPS_Microservice.GPS.Microservice.model.Vehicle;
+import com.GPS_Microservice.GPS.Microservice.repository.DeviceCredentialRepository;
+import com.GPS_Microservice.GPS.Microservice.security.JwtService;
+import com.GPS_Microservice.GPS.Microservice.service.DeviceCredentialService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.web.server.ResponseStatusException;
+
+public class DeviceCredentialServiceTest {
+
+    @Mock
+    private DeviceCredentialRepository deviceCredentialRepository;
+
+    @Mock
+    private JwtService jwtService;
+
+    @InjectMocks
+    private DeviceCredentialService deviceCredentialService;
+
+    private DeviceCredential mockCredential;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setId(1L);
+        vehicle.setName("Truck 1");
+        vehicle.setType("Truck");
+        vehicle.setPlateNumber("B1234XYZ");
+
+        mockCredential = new DeviceCredential();
+        mockCredential.setDeviceId("GPS-DEVICE-001");
+        mockCredential.setSecretHash(PasswordEncoderFactories.createDelegatingPasswordEncoder().encode("device-secret"));
+        mockCredential.setVehicle(vehicle);
+    }
+
+    @Test
+    void testIssueToken_Success() {
+        when(deviceCredentialRepository.findByDeviceId("GPS-DEVICE-001")).thenReturn(Optional.of(mockCredential));
+        when(jwtService.issueToken("GPS-DEVICE-001", 1L)).thenReturn("signed-token");
+
+        assertEquals("signed-token", deviceCredentialService.issueToken("GPS-DEVICE-001", "device-secret"));
+    }
+
+    @Test
+    void testIssueToken_WrongSecret_ShouldThrowException() {
+        when(deviceCredentialRepository.findByDeviceId("GPS-DEVICE-001")).thenReturn(Optional.of(mockCredential));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> {
+            deviceCredentialService.issueToken("GPS-DEVICE-001", "wrong-secret");
+        });
+
+        assertEquals(401, ex.getStatusCode().value());
+        verify(jwtService, never()).issueToken(any(), any());
+    }
+
+    @Test
+    void testIssueToken_DisabledDevice_ShouldThrowException() {
+        mockCredential.setEnabled(false);
+        when(deviceCredentialRepository.findByDeviceId("GPS-DEVICE-001")).thenReturn(Optional.of(mockCredential));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> {
+            deviceCredentialService.issueToken("GPS-DEVICE-001", "device-secret");
+        });
+
+        assertEquals(401, ex.getStatusCode().value());
+        verify(jwtService, never()).issueToken(any(), any());
+    }
+
+    @Test
+    void testIssueToken_UnknownDevice_ShouldThrowException() {
+        when(deviceCredentialRepository.findByDeviceId("GPS-DEVICE-404")).thenReturn(Optional.empty());
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> {
+            deviceCredentialService.issueToken("GPS-DEVICE-404", "device-secret");
+        });
+
+        assertEquals(401, ex.getStatusCode().value());
+        assertEquals("Invalid device credentials", ex.getReason());
+        verify(jwtService, never()).issueToken(any(), any());
+    }
+}
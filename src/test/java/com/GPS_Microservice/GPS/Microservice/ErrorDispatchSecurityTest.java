@@ -0,0 +1,103 @@
+package com.GPS_Microservice.GPS.Microservice;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+
+import com.GPS_Microservice.GPS.Microservice.controller.GPSController;
+import com.GPS_Microservice.GPS.Microservice.exception.GlobalExceptionHandler;
+import com.GPS_Microservice.GPS.Microservice.model.Vehicle;
+import com.GPS_Microservice.GPS.Microservice.security.JwtService;
+import com.GPS_Microservice.GPS.Microservice.security.SecurityConfig;
+import com.GPS_Microservice.GPS.Microservice.service.GPSLogService;
+import com.GPS_Microservice.GPS.Microservice.service.VehicleService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+// MockMvc tidak pernah melakukan error dispatch ke /error, jadi dites di embedded server sungguhan
+@SpringBootTest(
+        classes = ErrorDispatchSecurityTest.TestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "gps.jwt.secret=" + ErrorDispatchSecurityTest.SECRET,
+                "gps.jwt.expiration-minutes=60",
+                "gps.jwt.cache-size=100",
+                "spring.autoconfigure.exclude="
+                        + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration"
+        })
+public class ErrorDispatchSecurityTest {
+
+    static final String SECRET = "Q3p8sV1nR6tY2wE4uI7oA9dF0gH5jK3lZ8xC1vB6nM4=";
+
+    private static final String GPS_LOG_BODY = "{\"vehicleReference\": 1, \"latitude\": -6.2, \"longitude\": 106.8, "
+            + "\"speed\": 80, \"timestamp\": \"2025-07-16T10:00:00\"}";
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @Import({ GPSController.class, GlobalExceptionHandler.class, SecurityConfig.class, JwtService.class })
+    static class TestApplication {
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @MockitoBean
+    private GPSLogService gpsLogService;
+
+    @MockitoBean
+    private VehicleService vehicleService;
+
+    private HttpHeaders deviceHeaders;
+
+    @BeforeEach
+    void setUp() {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setId(1L);
+        vehicle.setName("Truck 1");
+        vehicle.setType("Truck");
+        vehicle.setPlateNumber("B1234XYZ");
+        when(vehicleService.getVehicleById(1L)).thenReturn(Optional.of(vehicle));
+
+        deviceHeaders = new HttpHeaders();
+        deviceHeaders.setContentType(MediaType.APPLICATION_JSON);
+        deviceHeaders.setBearerAuth(jwtService.issueToken("GPS-DEVICE-001", 1L));
+    }
+
+    @Test
+    void testSaveGPSLog_MalformedBodyWithDeviceToken_ShouldReturnBadRequest() {
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/api/gps", new HttpEntity<>("{ not json", deviceHeaders), String.class);
+
+        assertEquals(400, response.getStatusCode().value());
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.WWW_AUTHENTICATE));
+    }
+
+    @Test
+    void testSaveGPSLog_ServiceFailureWithDeviceToken_ShouldReturnServerError() {
+        when(gpsLogService.save(any())).thenThrow(new IllegalStateException("Database unavailable"));
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/api/gps", new HttpEntity<>(GPS_LOG_BODY, deviceHeaders), String.class);
+
+        assertEquals(500, response.getStatusCode().value());
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.WWW_AUTHENTICATE));
+    }
+}
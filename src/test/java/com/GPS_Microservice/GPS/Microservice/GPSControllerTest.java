@@ -11,9 +11,11 @@ import com.GPS_Microservice.GPS.Microservice.controller.GPSController;
 import com.GPS_Microservice.GPS.Microservice.dto.GPSLogRequestDTO;
 import com.GPS_Microservice.GPS.Microservice.model.GPSLog;
 import com.GPS_Microservice.GPS.Microservice.model.Vehicle;
+import com.GPS_Microservice.GPS.Microservice.security.DeviceAuthentication;
 import com.GPS_Microservice.GPS.Microservice.service.GPSLogService;
 import com.GPS_Microservice.GPS.Microservice.service.VehicleService;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -22,6 +24,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.server.ResponseStatusException;
 
 public class GPSControllerTest {
@@ -38,6 +41,11 @@ public class GPSControllerTest {
     private Vehicle mockVehicle;
     private GPSLog mockLog;
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -73,6 +81,42 @@ public class GPSControllerTest {
         assertEquals("GPS log saved successfully", response.getBody().get("message"));
     }
 
+    @Test
+    void testSaveGPSLog_DeviceVehicleMismatch_ShouldThrowException() {
+        GPSLogRequestDTO request = new GPSLogRequestDTO();
+        request.setVehicleReference(1L);
+        request.setLatitude(-6.2);
+        request.setLongitude(106.8);
+        request.setSpeed(80);
+        request.setTimestamp(LocalDateTime.now().toString());
+
+        SecurityContextHolder.getContext().setAuthentication(new DeviceAuthentication("GPS-DEVICE-002", 2L));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> {
+            gpsController.saveGPSLog(request);
+        });
+
+        assertEquals(403, ex.getStatusCode().value());
+        verify(gpsLogService, never()).save(any());
+    }
+
+    @Test
+    void testSaveGPSLog_DeviceMatchingVehicle_Success() {
+        GPSLogRequestDTO request = new GPSLogRequestDTO();
+        request.setVehicleReference(1L);
+        request.setLatitude(-6.2);
+        request.setLongitude(106.8);
+        request.setSpeed(80);
+        request.setTimestamp(LocalDateTime.now().toString());
+
+        SecurityContextHolder.getContext().setAuthentication(new DeviceAuthentication("GPS-DEVICE-001", 1L));
+        when(vehicleService.getVehicleById(1L)).thenReturn(Optional.of(mockVehicle));
+
+        ResponseEntity<Map<String, Object>> response = gpsController.saveGPSLog(request);
+
+        assertEquals(200, response.getStatusCode().value());
+    }
+
     @Test
     void testGetLastLocation_Success() {
         GPSLog lastLocationLog = new GPSLog();
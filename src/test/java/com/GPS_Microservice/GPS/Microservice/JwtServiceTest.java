@@ -0,0 +1,97 @@
+package com.GPS_Microservice.GPS.Microservice;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+
+import com.GPS_Microservice.GPS.Microservice.security.DeviceAuthentication;
+import com.GPS_Microservice.GPS.Microservice.security.JwtService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JwtServiceTest {
+
+    private static final String SECRET = "vkJ1s+Om0FeQUSFbY7kLBMpzyAXpQE+NBvm6DAjXtWM=";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 60, 100);
+    }
+
+    @Test
+    void testAuthenticate_ValidToken() {
+        String token = jwtService.issueToken("GPS-DEVICE-001", 1L);
+
+        Optional<DeviceAuthentication> authentication = jwtService.authenticate(token);
+
+        assertTrue(authentication.isPresent());
+        assertEquals("GPS-DEVICE-001", authentication.get().getName());
+        assertEquals(1L, authentication.get().getVehicleReference());
+        assertEquals("ROLE_DEVICE", authentication.get().getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void testAuthenticate_CachedTokenReturnsFreshAuthentication() {
+        String token = jwtService.issueToken("GPS-DEVICE-001", 1L);
+
+        DeviceAuthentication first = jwtService.authenticate(token).orElseThrow();
+        DeviceAuthentication second = jwtService.authenticate(token).orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(first.getName(), second.getName());
+        assertEquals(first.getVehicleReference(), second.getVehicleReference());
+    }
+
+    @Test
+    void testAuthenticate_CacheStaysBounded() {
+        JwtService smallCacheService = new JwtService(SECRET, 60, 2);
+        String first = smallCacheService.issueToken("GPS-DEVICE-001", 1L);
+        String second = smallCacheService.issueToken("GPS-DEVICE-002", 2L);
+        String third = smallCacheService.issueToken("GPS-DEVICE-003", 3L);
+
+        assertTrue(smallCacheService.authenticate(first).isPresent());
+        assertTrue(smallCacheService.authenticate(second).isPresent());
+        assertEquals(2, smallCacheService.getCachedTokenCount());
+
+        assertTrue(smallCacheService.authenticate(third).isPresent());
+        assertEquals(2, smallCacheService.getCachedTokenCount());
+        assertEquals(1L, smallCacheService.authenticate(first).orElseThrow().getVehicleReference());
+    }
+
+    @Test
+    void testAuthenticate_CacheDisabled() {
+        JwtService uncachedService = new JwtService(SECRET, 60, 0);
+        String token = uncachedService.issueToken("GPS-DEVICE-001", 1L);
+
+        assertTrue(uncachedService.authenticate(token).isPresent());
+        assertEquals(0, uncachedService.getCachedTokenCount());
+    }
+
+    @Test
+    void testAuthenticate_TamperedTokenRejected() {
+        String token = jwtService.issueToken("GPS-DEVICE-001", 1L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertTrue(jwtService.authenticate(tampered).isEmpty());
+        assertTrue(jwtService.authenticate("not-a-token").isEmpty());
+    }
+
+    @Test
+    void testAuthenticate_TokenFromOtherKeyRejected() {
+        JwtService otherService = new JwtService("c2VjcmV0LWxhaW4tdW50dWstdGVzdC1zZWxhbWEtMzItYnl0ZQ==", 60, 100);
+        String token = otherService.issueToken("GPS-DEVICE-001", 1L);
+
+        assertTrue(jwtService.authenticate(token).isEmpty());
+    }
+
+    @Test
+    void testAuthenticate_ExpiredTokenRejected() {
+        JwtService expiringService = new JwtService(SECRET, -1, 100);
+        String token = expiringService.issueToken("GPS-DEVICE-001", 1L);
+
+        assertTrue(expiringService.authenticate(token).isEmpty());
+    }
+}
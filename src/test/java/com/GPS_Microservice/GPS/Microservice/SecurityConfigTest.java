@@ -0,0 +1,174 @@
+package com.GPS_Microservice.GPS.Microservice;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.GPS_Microservice.GPS.Microservice.controller.AuthController;
+import com.GPS_Microservice.GPS.Microservice.controller.GPSController;
+import com.GPS_Microservice.GPS.Microservice.model.GPSLog;
+import com.GPS_Microservice.GPS.Microservice.model.Vehicle;
+import com.GPS_Microservice.GPS.Microservice.security.JwtService;
+import com.GPS_Microservice.GPS.Microservice.security.SecurityConfig;
+import com.GPS_Microservice.GPS.Microservice.service.DeviceCredentialService;
+import com.GPS_Microservice.GPS.Microservice.service.GPSLogService;
+import com.GPS_Microservice.GPS.Microservice.service.VehicleService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+@WebMvcTest(controllers = { AuthController.class, GPSController.class })
+@Import({ SecurityConfig.class, JwtService.class })
+@TestPropertySource(properties = {
+        "gps.jwt.secret=" + SecurityConfigTest.SECRET,
+        "gps.jwt.expiration-minutes=60",
+        "gps.jwt.cache-size=100"
+})
+public class SecurityConfigTest {
+
+    static final String SECRET = "mJ0bXy8G3fN6Qz1kT2cW5eR7uI9oP4aS6dF8gH0jK2l=";
+
+    private static final String GPS_LOG_BODY = "{\"vehicleReference\": 1, \"latitude\": -6.2, \"longitude\": 106.8, "
+            + "\"speed\": 80, \"timestamp\": \"2025-07-16T10:00:00\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @MockitoBean
+    private DeviceCredentialService deviceCredentialService;
+
+    @MockitoBean
+    private GPSLogService gpsLogService;
+
+    @MockitoBean
+    private VehicleService vehicleService;
+
+    private Vehicle mockVehicle;
+
+    @BeforeEach
+    void setUp() {
+        mockVehicle = new Vehicle();
+        mockVehicle.setId(1L);
+        mockVehicle.setName("Truck 1");
+        mockVehicle.setType("Truck");
+        mockVehicle.setPlateNumber("B1234XYZ");
+
+        when(vehicleService.getVehicleById(1L)).thenReturn(Optional.of(mockVehicle));
+    }
+
+    @Test
+    void testIssueToken_WithoutAuth_Success() throws Exception {
+        when(deviceCredentialService.issueToken("GPS-DEVICE-001", "device-secret")).thenReturn("signed-token");
+
+        mockMvc.perform(post("/api/auth/token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"deviceId\": \"GPS-DEVICE-001\", \"secret\": \"device-secret\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").value("signed-token"))
+                .andExpect(jsonPath("$.data.tokenType").value("Bearer"));
+    }
+
+    @Test
+    void testIssueToken_InvalidCredentials_ShouldReturnUnauthorized() throws Exception {
+        when(deviceCredentialService.issueToken(anyString(), anyString()))
+                .thenThrow(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid device credentials"));
+
+        mockMvc.perform(post("/api/auth/token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"deviceId\": \"GPS-DEVICE-001\", \"secret\": \"wrong-secret\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid device credentials"));
+    }
+
+    @Test
+    void testSaveGPSLog_WithDeviceToken_Success() throws Exception {
+        String token = jwtService.issueToken("GPS-DEVICE-001", 1L);
+
+        mockMvc.perform(post("/api/gps")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GPS_LOG_BODY))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testSaveGPSLog_DeviceTokenForOtherVehicle_ShouldReturnForbidden() throws Exception {
+        String token = jwtService.issueToken("GPS-DEVICE-002", 2L);
+
+        mockMvc.perform(post("/api/gps")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GPS_LOG_BODY))
+                .andExpect(status().isForbidden());
+
+        verify(gpsLogService, never()).save(any());
+    }
+
+    @Test
+    void testGetLastLocation_WithDeviceToken_ShouldReturnForbidden() throws Exception {
+        String token = jwtService.issueToken("GPS-DEVICE-001", 1L);
+
+        mockMvc.perform(get("/api/vehicles/1/last-location")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testSaveGPSLog_InvalidToken_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/gps")
+                .header("Authorization", "Bearer not-a-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GPS_LOG_BODY))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testSaveGPSLog_ExpiredToken_ShouldReturnUnauthorized() throws Exception {
+        String token = new JwtService(SECRET, -1, 100).issueToken("GPS-DEVICE-001", 1L);
+
+        mockMvc.perform(post("/api/gps")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GPS_LOG_BODY))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testSaveGPSLog_WithoutAuth_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/gps")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GPS_LOG_BODY))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testGetLastLocation_WithAdminBasicAuth_Success() throws Exception {
+        GPSLog lastLocationLog = new GPSLog();
+        lastLocationLog.setVehicle(mockVehicle);
+        lastLocationLog.setLatitude(-6.2);
+        lastLocationLog.setLongitude(106.8);
+        lastLocationLog.setSpeed(80);
+        lastLocationLog.setTimestamp(LocalDateTime.now());
+        when(gpsLogService.getLastLocation(mockVehicle)).thenReturn(Optional.of(lastLocationLog));
+
+        mockMvc.perform(get("/api/vehicles/1/last-location")
+                .with(httpBasic("admin", "admin123")))
+                .andExpect(status().isOk());
+    }
+}